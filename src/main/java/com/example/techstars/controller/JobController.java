@@ -1,56 +1,92 @@
 package com.example.techstars.controller;
 
 import com.example.techstars.dto.JobDTO;
+import com.example.techstars.dto.JobFacetsDTO;
 import com.example.techstars.dto.OrganizationDTO;
 import com.example.techstars.dto.TagDTO;
 import com.example.techstars.model.Job;
+import com.example.techstars.model.Location;
+import com.example.techstars.repository.JobFilter;
 import com.example.techstars.repository.JobRepository;
+import com.example.techstars.repository.JobRepositoryCustom;
 import com.example.techstars.repository.JobSpecification;
+import com.example.techstars.service.JobFacetService;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/jobs")
 @RequiredArgsConstructor
 public class JobController {
+    private static final Set<String> PROJECTABLE_FIELDS = Stream.concat(
+                    JobRepositoryCustom.SCALAR_FIELDS.stream(), Stream.of("location", "organization", "tags"))
+            .collect(Collectors.toUnmodifiableSet());
+
     private final JobRepository jobRepository;
+    private final JobFacetService jobFacetService;
 
     @GetMapping
-    public Page<JobDTO> getJobs(
+    public Page<?> getJobs(
             @RequestParam(required = false) String location,
+            @RequestParam(required = false) List<Long> locationId,
             @RequestParam(required = false) String jobFunction,
             @RequestParam(required = false) String tags,
+            @RequestParam(required = false) String fields,
             @RequestParam(defaultValue = "postedDate") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortBy);
+        String sortProperty = "location".equals(sortBy) ? JobRepositoryCustom.LOCATION_SORT_PROPERTY : sortBy;
+        Sort sort = Sort.by(sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC, sortProperty);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        List<String> tagList = tags != null
-                && !tags.isEmpty() ? List.of(tags.split(",")) : Collections.emptyList();
+        Specification<Job> spec = toSpecification(JobFilter.of(location, locationId, jobFunction, parseTags(tags)));
 
-        Specification<Job> spec = JobSpecification.findByCriteria(location, jobFunction, tagList);
+        if (fields != null && !fields.isBlank()) {
+            Set<String> fieldSet = parseFields(fields);
+            if (!JobRepositoryCustom.SCALAR_FIELDS.contains(sortProperty)
+                    && !JobRepositoryCustom.LOCATION_SORT_PROPERTY.equals(sortProperty)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Unsupported sortBy with fields projection: " + sortBy);
+            }
+            return jobRepository.findAllProjected(spec, pageable, fieldSet);
+        }
 
         Page<Job> jobsPage = jobRepository.findAll(spec, pageable);
 
         return jobsPage.map(this::convertToDto);
     }
 
+    @GetMapping("/facets")
+    public JobFacetsDTO getFacets(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) List<Long> locationId,
+            @RequestParam(required = false) String jobFunction,
+            @RequestParam(required = false) String tags
+    ) {
+        return jobFacetService.getFacets(JobFilter.of(location, locationId, jobFunction, parseTags(tags)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<JobDTO> getJobById(@PathVariable Long id) {
         return jobRepository.findById(id)
@@ -59,6 +95,31 @@ public class JobController {
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    private Specification<Job> toSpecification(JobFilter filter) {
+        return JobSpecification.findByCriteria(filter.getLocation(), filter.getLocationIds(),
+                filter.getJobFunction(), filter.getTags());
+    }
+
+    private List<String> parseTags(String tags) {
+        return tags != null
+                && !tags.isEmpty() ? List.of(tags.split(",")) : Collections.emptyList();
+    }
+
+    private Set<String> parseFields(String fields) {
+        Set<String> fieldSet = new HashSet<>();
+        for (String field : fields.split(",")) {
+            field = field.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (!PROJECTABLE_FIELDS.contains(field)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown field: " + field);
+            }
+            fieldSet.add(field);
+        }
+        return fieldSet;
+    }
+
     private JobDTO convertToDto(Job job) {
         OrganizationDTO orgDto = Optional.ofNullable(job.getOrganization())
                 .map(org -> OrganizationDTO.builder()
@@ -83,7 +144,8 @@ public class JobController {
                 .laborFunction(job.getLaborFunction())
                 .postedDate(job.getPostedDate())
                 .description(job.getDescription())
-                .location(job.getLocation())
+                .location(Optional.ofNullable(job.getLocation()).map(Location::getName).orElse(null))
+                .locationId(Optional.ofNullable(job.getLocation()).map(Location::getId).orElse(null))
                 .organization(orgDto)
                 .tags(tagDtos)
                 .build();
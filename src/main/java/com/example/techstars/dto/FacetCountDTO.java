@@ -0,0 +1,16 @@
+package com.example.techstars.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDTO {
+    private Long id;
+    private String value;
+    private long count;
+}
\ No newline at end of file
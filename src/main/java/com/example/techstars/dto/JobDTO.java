@@ -19,6 +19,7 @@ public class JobDTO {
     private Long postedDate;
     private String description;
     private String location;
+    private Long locationId;
     private OrganizationDTO organization;
     private List<TagDTO> tags;
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.techstars.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFacetsDTO {
+    private List<FacetCountDTO> jobFunctions;
+    private List<FacetCountDTO> tags;
+    private List<FacetCountDTO> organizations;
+    private List<FacetCountDTO> locations;
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.example.techstars.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobProjectionDTO {
+    private Long id;
+    private String positionName;
+    private String jobPageUrl;
+    private String logoUrl;
+    private String laborFunction;
+    private Long postedDate;
+    private String description;
+    private String location;
+    private Long locationId;
+    private OrganizationDTO organization;
+    private List<TagDTO> tags;
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.techstars.repository;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import lombok.Value;
+
+@Value
+public class JobFilter {
+    String location;
+    List<Long> locationIds;
+    String jobFunction;
+    List<String> tags;
+
+    public static JobFilter of(String location, List<Long> locationIds, String jobFunction, List<String> tags) {
+        return new JobFilter(
+                normalizeText(location),
+                locationIds == null ? List.of() : locationIds.stream()
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .sorted()
+                        .toList(),
+                normalizeText(jobFunction),
+                tags == null ? List.of() : tags.stream()
+                        .map(String::trim)
+                        .filter(tag -> !tag.isEmpty())
+                        .distinct()
+                        .sorted()
+                        .toList());
+    }
+
+    private static String normalizeText(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -4,6 +4,6 @@ import com.example.techstars.model.Job;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job>, JobRepositoryCustom {
     boolean existsByJobPageUrl(String jobPageUrl);
 }
\ No newline at end of file
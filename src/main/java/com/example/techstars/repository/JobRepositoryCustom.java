@@ -0,0 +1,19 @@
+package com.example.techstars.repository;
+
+import com.example.techstars.dto.JobFacetsDTO;
+import com.example.techstars.dto.JobProjectionDTO;
+import com.example.techstars.model.Job;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface JobRepositoryCustom {
+    Set<String> SCALAR_FIELDS = Set.of(
+            "id", "positionName", "jobPageUrl", "logoUrl", "laborFunction", "postedDate", "description");
+    String LOCATION_SORT_PROPERTY = "location.name";
+
+    Page<JobProjectionDTO> findAllProjected(Specification<Job> spec, Pageable pageable, Set<String> fields);
+
+    JobFacetsDTO countFacets(JobFilter filter);
+}
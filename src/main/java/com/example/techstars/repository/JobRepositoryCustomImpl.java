@@ -0,0 +1,241 @@
+package com.example.techstars.repository;
+
+import com.example.techstars.dto.FacetCountDTO;
+import com.example.techstars.dto.JobFacetsDTO;
+import com.example.techstars.dto.JobProjectionDTO;
+import com.example.techstars.dto.OrganizationDTO;
+import com.example.techstars.dto.TagDTO;
+import com.example.techstars.model.Job;
+import com.example.techstars.model.Location;
+import com.example.techstars.model.Organization;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+public class JobRepositoryCustomImpl implements JobRepositoryCustom {
+
+    private static final String ORGANIZATION_FIELD = "organization";
+    private static final String LOCATION_FIELD = "location";
+    private static final String TAGS_FIELD = "tags";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<JobProjectionDTO> findAllProjected(Specification<Job> spec, Pageable pageable, Set<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Job> root = query.from(Job.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        fields.stream().filter(SCALAR_FIELDS::contains).forEach(columns::add);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        columns.forEach(column -> selections.add(root.get(column).alias(column)));
+
+        if (fields.contains(ORGANIZATION_FIELD)) {
+            Join<Job, Organization> orgJoin = joinOnce(root, "organization");
+            selections.add(orgJoin.get("id").alias("organization.id"));
+            selections.add(orgJoin.get("title").alias("organization.title"));
+            selections.add(orgJoin.get("url").alias("organization.url"));
+        }
+
+        if (fields.contains(LOCATION_FIELD)) {
+            Join<Job, Location> locationJoin = joinOnce(root, "location");
+            selections.add(locationJoin.get("id").alias("location.id"));
+            selections.add(locationJoin.get("name").alias("location.name"));
+        }
+
+        query.multiselect(selections);
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            Expression<?> sortExpression = LOCATION_SORT_PROPERTY.equals(order.getProperty())
+                    ? joinOnce(root, "location").get("name")
+                    : root.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(sortExpression) : cb.desc(sortExpression));
+        }
+        query.orderBy(orders);
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        Map<Long, JobProjectionDTO> jobs = new LinkedHashMap<>();
+        for (Tuple tuple : tuples) {
+            JobProjectionDTO dto = toDto(tuple, fields);
+            jobs.put(dto.getId(), dto);
+        }
+
+        if (fields.contains(TAGS_FIELD) && !jobs.isEmpty()) {
+            Map<Long, List<TagDTO>> tagsByJob = findTagsByJobIds(jobs.keySet());
+            jobs.values().forEach(dto -> dto.setTags(tagsByJob.getOrDefault(dto.getId(), List.of())));
+        }
+
+        return PageableExecutionUtils.getPage(new ArrayList<>(jobs.values()), pageable, () -> count(spec));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Join<Job, T> joinOnce(Root<Job> root, String attribute) {
+        return root.getJoins().stream()
+                .filter(join -> join.getAttribute().getName().equals(attribute))
+                .map(join -> (Join<Job, T>) join)
+                .findFirst()
+                .orElseGet(() -> root.join(attribute, JoinType.LEFT));
+    }
+
+    @Override
+    public JobFacetsDTO countFacets(JobFilter filter) {
+        // Keep these conditions in sync with JobSpecification.findByCriteria.
+        StringBuilder where = new StringBuilder();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (filter.getLocation() != null) {
+            where.append(" AND j.location_id IN (SELECT l.id FROM location l WHERE LOWER(l.name) LIKE :location)");
+            parameters.put("location", "%" + filter.getLocation() + "%");
+        }
+        if (!filter.getLocationIds().isEmpty()) {
+            where.append(" AND j.location_id IN (:locationIds)");
+            parameters.put("locationIds", filter.getLocationIds());
+        }
+        if (filter.getJobFunction() != null) {
+            where.append(" AND LOWER(j.labor_function) = :jobFunction");
+            parameters.put("jobFunction", filter.getJobFunction());
+        }
+        if (!filter.getTags().isEmpty()) {
+            where.append(" AND EXISTS (SELECT 1 FROM job_tag jt JOIN tag t ON t.id = jt.tag_id"
+                    + " WHERE jt.job_id = j.id AND t.name IN (:tags))");
+            parameters.put("tags", filter.getTags());
+        }
+
+        String sql = "WITH filtered AS ("
+                + " SELECT j.id, j.labor_function, j.organization_id, j.location_id FROM job j WHERE 1 = 1" + where
+                + ")"
+                + " SELECT 'jobFunction' AS facet, CAST(NULL AS BIGINT) AS id, f.labor_function AS facet_value,"
+                + " COUNT(*) AS job_count FROM filtered f GROUP BY f.labor_function"
+                + " UNION ALL"
+                + " SELECT 'tag', t.id, t.name, COUNT(*) FROM filtered f"
+                + " JOIN job_tag jt ON jt.job_id = f.id JOIN tag t ON t.id = jt.tag_id GROUP BY t.id, t.name"
+                + " UNION ALL"
+                + " SELECT 'organization', o.id, o.title, COUNT(*) FROM filtered f"
+                + " JOIN organization o ON o.id = f.organization_id GROUP BY o.id, o.title"
+                + " UNION ALL"
+                + " SELECT 'location', l.id, l.name, COUNT(*) FROM filtered f"
+                + " JOIN location l ON l.id = f.location_id GROUP BY l.id, l.name"
+                + " ORDER BY facet, job_count DESC, facet_value ASC";
+
+        Query query = entityManager.createNativeQuery(sql);
+        parameters.forEach(query::setParameter);
+
+        Map<String, List<FacetCountDTO>> facets = new HashMap<>();
+        for (Object row : query.getResultList()) {
+            Object[] columns = (Object[]) row;
+            facets.computeIfAbsent((String) columns[0], facet -> new ArrayList<>())
+                    .add(FacetCountDTO.builder()
+                            .id(columns[1] != null ? ((Number) columns[1]).longValue() : null)
+                            .value((String) columns[2])
+                            .count(((Number) columns[3]).longValue())
+                            .build());
+        }
+
+        return JobFacetsDTO.builder()
+                .jobFunctions(facets.getOrDefault("jobFunction", List.of()))
+                .tags(facets.getOrDefault("tag", List.of()))
+                .organizations(facets.getOrDefault("organization", List.of()))
+                .locations(facets.getOrDefault("location", List.of()))
+                .build();
+    }
+
+    private JobProjectionDTO toDto(Tuple tuple, Set<String> fields) {
+        JobProjectionDTO.JobProjectionDTOBuilder builder = JobProjectionDTO.builder().id(tuple.get("id", Long.class));
+        if (fields.contains("positionName")) {
+            builder.positionName(tuple.get("positionName", String.class));
+        }
+        if (fields.contains("jobPageUrl")) {
+            builder.jobPageUrl(tuple.get("jobPageUrl", String.class));
+        }
+        if (fields.contains("logoUrl")) {
+            builder.logoUrl(tuple.get("logoUrl", String.class));
+        }
+        if (fields.contains("laborFunction")) {
+            builder.laborFunction(tuple.get("laborFunction", String.class));
+        }
+        if (fields.contains("postedDate")) {
+            builder.postedDate(tuple.get("postedDate", Long.class));
+        }
+        if (fields.contains("description")) {
+            builder.description(tuple.get("description", String.class));
+        }
+        if (fields.contains(ORGANIZATION_FIELD)) {
+            Long orgId = tuple.get("organization.id", Long.class);
+            if (orgId != null) {
+                builder.organization(OrganizationDTO.builder()
+                        .id(orgId)
+                        .title(tuple.get("organization.title", String.class))
+                        .url(tuple.get("organization.url", String.class))
+                        .build());
+            }
+        }
+        if (fields.contains(LOCATION_FIELD)) {
+            builder.location(tuple.get("location.name", String.class))
+                    .locationId(tuple.get("location.id", Long.class));
+        }
+        return builder.build();
+    }
+
+    private Map<Long, List<TagDTO>> findTagsByJobIds(Set<Long> jobIds) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select j.id, t.id, t.name from Job j join j.tags t where j.id in :ids", Object[].class)
+                .setParameter("ids", jobIds)
+                .getResultList();
+
+        Map<Long, List<TagDTO>> tagsByJob = new HashMap<>();
+        for (Object[] row : rows) {
+            tagsByJob.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(TagDTO.builder()
+                            .id((Long) row[1])
+                            .name((String) row[2])
+                            .build());
+        }
+        return tagsByJob;
+    }
+
+    private long count(Specification<Job> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Job> root = query.from(Job.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.countDistinct(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.techstars.repository;
 
 import com.example.techstars.model.Job;
+import com.example.techstars.model.Location;
 import com.example.techstars.model.Tag;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.data.jpa.domain.Specification;
@@ -11,26 +14,36 @@ import org.springframework.util.StringUtils;
 
 public class JobSpecification {
 
-    public static Specification<Job> findByCriteria(String location, String jobFunction, List<String> tags) {
+    // Keep these conditions in sync with the WHERE clause in JobRepositoryCustomImpl.countFacets.
+    public static Specification<Job> findByCriteria(String location, List<Long> locationIds, String jobFunction,
+                                                    List<String> tags) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             if (StringUtils.hasText(location)) {
-                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(root.get("location")),
+                Join<Job, Location> locationJoin = root.join("location");
+                predicates.add(criteriaBuilder.like(criteriaBuilder.lower(locationJoin.get("name")),
                         "%" + location.toLowerCase() + "%"));
             }
 
+            if (locationIds != null && !locationIds.isEmpty()) {
+                predicates.add(root.get("location").get("id").in(locationIds));
+            }
+
             if (StringUtils.hasText(jobFunction)) {
                 predicates.add(criteriaBuilder.equal(criteriaBuilder.lower(root.get("laborFunction")), jobFunction.toLowerCase()));
             }
 
             if (tags != null && !tags.isEmpty()) {
-                Join<Job, Tag> tagJoin = root.join("tags");
-                predicates.add(tagJoin.get("name").in(tags));
+                Subquery<Long> taggedJobs = query.subquery(Long.class);
+                Root<Job> taggedJob = taggedJobs.from(Job.class);
+                Join<Job, Tag> tagJoin = taggedJob.join("tags");
+                taggedJobs.select(taggedJob.get("id"))
+                        .where(criteriaBuilder.equal(taggedJob.get("id"), root.get("id")),
+                                tagJoin.get("name").in(tags));
+                predicates.add(criteriaBuilder.exists(taggedJobs));
             }
 
-            query.distinct(true);
-
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
@@ -0,0 +1,9 @@
+package com.example.techstars.repository;
+
+import com.example.techstars.model.Location;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LocationRepository extends JpaRepository<Location, Long> {
+    Optional<Location> findByNormalizedName(String normalizedName);
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.example.techstars.service;
+
+import com.example.techstars.dto.JobFacetsDTO;
+import com.example.techstars.repository.JobFilter;
+import com.example.techstars.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class JobFacetService {
+
+    public static final String FACETS_CACHE = "jobFacets";
+
+    private final JobRepository jobRepository;
+
+    @Cacheable(FACETS_CACHE)
+    public JobFacetsDTO getFacets(JobFilter filter) {
+        return jobRepository.countFacets(filter);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.techstars.service;
+
+import com.example.techstars.model.Location;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class JobLocationMigration implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(JobLocationMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LocationService locationService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (legacyLocationColumnExists()) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> migrate());
+        }
+    }
+
+    private void migrate() {
+        List<String> rawLocations = jdbcTemplate.queryForList(
+                "SELECT DISTINCT location FROM job WHERE location_id IS NULL AND location IS NOT NULL", String.class);
+        log.info("Migrating {} distinct job locations to the location table", rawLocations.size());
+
+        int jobsUpdated = 0;
+        for (String rawLocation : rawLocations) {
+            Location location = locationService.findOrCreateLocation(rawLocation);
+            if (location != null) {
+                jobsUpdated += jdbcTemplate.update(
+                        "UPDATE job SET location_id = ? WHERE location = ? AND location_id IS NULL",
+                        location.getId(), rawLocation);
+            }
+        }
+
+        jdbcTemplate.execute("ALTER TABLE job DROP COLUMN location");
+        log.info("Backfilled location_id for {} jobs and dropped the legacy job.location column", jobsUpdated);
+    }
+
+    private boolean legacyLocationColumnExists() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns "
+                        + "WHERE table_schema = current_schema() AND table_name = 'job' AND column_name = 'location'",
+                Integer.class);
+        return count != null && count > 0;
+    }
+}
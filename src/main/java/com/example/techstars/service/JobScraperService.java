@@ -27,6 +27,7 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -51,7 +52,9 @@ public class JobScraperService {
     private final JobRepository jobRepository;
     private final OrganizationRepository organizationRepository;
     private final TagRepository tagRepository;
+    private final LocationService locationService;
 
+    @CacheEvict(value = JobFacetService.FACETS_CACHE, allEntries = true)
     public int scrapeJobsByFunction(String jobFunction) {
         WebDriver driver = null;
         int jobsSaved = 0;
@@ -152,7 +155,7 @@ public class JobScraperService {
                 .jobPageUrl(jobPageUrl)
                 .logoUrl(card.findElement(COMPANY_LOGO_LINK_SELECTOR).findElement(By.tagName("img")).getAttribute("src"))
                 .laborFunction(jobFunction)
-                .location(getElementText(card, LOCATION_SELECTOR).orElse(""))
+                .location(locationService.findOrCreateLocation(getElementText(card, LOCATION_SELECTOR).orElse(null)))
                 .postedDate(getElementAttribute(card, POSTED_DATE_SELECTOR, "content").map(this::parseDate).orElse(0L))
                 .description(getElementAttribute(card, DESCRIPTION_SELECTOR, "content").orElse(""))
                 .organization(org)
@@ -0,0 +1,112 @@
+package com.example.techstars.service;
+
+import com.example.techstars.model.Location;
+import com.example.techstars.repository.LocationRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class LocationService {
+
+    private static final String REMOTE = "remote";
+    private static final Set<String> US_STATES = Set.of(
+            "alabama", "alaska", "arizona", "arkansas", "california", "colorado", "connecticut", "delaware",
+            "district of columbia", "florida", "georgia", "hawaii", "idaho", "illinois", "indiana", "iowa",
+            "kansas", "kentucky", "louisiana", "maine", "maryland", "massachusetts", "michigan", "minnesota",
+            "mississippi", "missouri", "montana", "nebraska", "nevada", "new hampshire", "new jersey",
+            "new mexico", "new york", "north carolina", "north dakota", "ohio", "oklahoma", "oregon",
+            "pennsylvania", "rhode island", "south carolina", "south dakota", "tennessee", "texas", "utah",
+            "vermont", "virginia", "washington", "west virginia", "wisconsin", "wyoming");
+    private static final Set<String> US_STATE_CODES = Set.of(
+            "AL", "AK", "AZ", "AR", "CA", "CO", "CT", "DE", "DC", "FL", "GA", "HI", "ID", "IL", "IN", "IA",
+            "KS", "KY", "LA", "ME", "MD", "MA", "MI", "MN", "MS", "MO", "MT", "NE", "NV", "NH", "NJ", "NM",
+            "NY", "NC", "ND", "OH", "OK", "OR", "PA", "RI", "SC", "SD", "TN", "TX", "UT", "VT", "VA", "WA",
+            "WV", "WI", "WY");
+
+    private final LocationRepository locationRepository;
+    private final Map<String, Location> locationCache = new ConcurrentHashMap<>();
+
+    public Location findOrCreateLocation(String rawLocation) {
+        String name = normalize(rawLocation);
+        if (name.isEmpty()) {
+            return null;
+        }
+
+        String normalizedName = name.toLowerCase(Locale.ROOT);
+        Location cached = locationCache.get(normalizedName);
+        if (cached != null) {
+            return cached;
+        }
+
+        Location location = locationRepository.findByNormalizedName(normalizedName)
+                .orElseGet(() -> createLocation(name, normalizedName));
+        Location interned = locationCache.putIfAbsent(normalizedName, location);
+        return interned != null ? interned : location;
+    }
+
+    private Location createLocation(String name, String normalizedName) {
+        try {
+            return locationRepository.save(parse(name));
+        } catch (DataIntegrityViolationException e) {
+            return locationRepository.findByNormalizedName(normalizedName).orElseThrow(() -> e);
+        }
+    }
+
+    String normalize(String rawLocation) {
+        if (rawLocation == null) {
+            return "";
+        }
+        return rawLocation.trim().replaceAll("\\s+", " ");
+    }
+
+    Location parse(String name) {
+        boolean remote = name.toLowerCase(Locale.ROOT).contains(REMOTE);
+        String remoteCountry = null;
+
+        List<String> parts = new ArrayList<>();
+        for (String part : name.split("[,·•]")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith(REMOTE)) {
+                String qualifier = trimmed.substring(REMOTE.length()).replaceAll("^[\\s\\-–(]+|[\\s)]+$", "");
+                if (!qualifier.isEmpty()) {
+                    remoteCountry = qualifier;
+                }
+            } else if (!trimmed.isEmpty()) {
+                parts.add(trimmed);
+            }
+        }
+
+        Location.LocationBuilder builder = Location.builder()
+                .name(name)
+                .normalizedName(name.toLowerCase(Locale.ROOT))
+                .remote(remote)
+                .country(remoteCountry);
+        if (parts.size() == 1) {
+            builder.city(parts.get(0));
+        } else if (parts.size() == 2) {
+            builder.city(parts.get(0));
+            if (isUsState(parts.get(1))) {
+                builder.region(parts.get(1));
+            } else {
+                builder.country(parts.get(1));
+            }
+        } else if (parts.size() > 2) {
+            builder.city(parts.get(0))
+                    .region(parts.get(1))
+                    .country(parts.get(parts.size() - 1));
+        }
+        return builder.build();
+    }
+
+    private boolean isUsState(String part) {
+        return US_STATE_CODES.contains(part) || US_STATES.contains(part.toLowerCase(Locale.ROOT));
+    }
+}
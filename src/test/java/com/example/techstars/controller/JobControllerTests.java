@@ -0,0 +1,92 @@
+package com.example.techstars.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.techstars.repository.JobFilter;
+import com.example.techstars.repository.JobRepository;
+import com.example.techstars.service.JobFacetService;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class JobControllerTests {
+
+	private final JobRepository jobRepository = mock(JobRepository.class);
+	private final JobFacetService jobFacetService = mock(JobFacetService.class);
+	private final JobController jobController = new JobController(jobRepository, jobFacetService);
+
+	@Test
+	void rejectsUnknownField() {
+		assertThatThrownBy(() -> jobController.getJobs(null, null, null, null, "positionName,salary",
+				"postedDate", "desc", 0, 20))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+		verifyNoInteractions(jobRepository);
+	}
+
+	@Test
+	void skipsBlankFieldEntries() {
+		jobController.getJobs(null, null, null, null, " positionName, ,,location ", "postedDate", "desc", 0, 20);
+
+		verify(jobRepository).findAllProjected(any(Specification.class), any(Pageable.class),
+				eq(Set.of("positionName", "location")));
+	}
+
+	@Test
+	void rejectsUnsupportedSortWithFieldsProjection() {
+		assertThatThrownBy(() -> jobController.getJobs(null, null, null, null, "positionName",
+				"organization.title", "asc", 0, 20))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+		verifyNoInteractions(jobRepository);
+	}
+
+	@Test
+	void sortsByLocationNameOnFullPath() {
+		when(jobRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+
+		jobController.getJobs(null, null, null, null, null, "location", "asc", 0, 20);
+
+		verify(jobRepository).findAll(any(Specification.class),
+				argThat((Pageable pageable) -> pageable.getSort().equals(Sort.by(Sort.Direction.ASC, "location.name"))));
+	}
+
+	@Test
+	void sortsByLocationNameWithFieldsProjection() {
+		jobController.getJobs(null, null, null, null, "positionName", "location", "desc", 0, 20);
+
+		verify(jobRepository).findAllProjected(any(Specification.class),
+				argThat((Pageable pageable) -> pageable.getSort().equals(Sort.by(Sort.Direction.DESC, "location.name"))),
+				eq(Set.of("positionName")));
+	}
+
+	@Test
+	void passesNormalizedFilterToFacets() {
+		jobController.getFacets(" San Francisco ", List.of(2L, 1L), " Sales ", "React, Java,,React");
+
+		verify(jobFacetService).getFacets(
+				JobFilter.of("san francisco", List.of(1L, 2L), "sales", List.of("Java", "React")));
+	}
+
+	@Test
+	void ignoresMissingTagsForFacets() {
+		jobController.getFacets(null, null, null, null);
+
+		verify(jobFacetService).getFacets(JobFilter.of(null, null, null, null));
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.example.techstars.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JobFilterTests {
+
+	@Test
+	void dedupesAndSortsTagsAndLocationIds() {
+		JobFilter filter = JobFilter.of(null, Arrays.asList(3L, 1L, null, 3L), null,
+				List.of("React", " Java", "React "));
+
+		assertThat(filter.getLocationIds()).containsExactly(1L, 3L);
+		assertThat(filter.getTags()).containsExactly("Java", "React");
+	}
+
+	@Test
+	void turnsBlankValuesIntoNull() {
+		JobFilter filter = JobFilter.of("   ", null, "", List.of(" ", ""));
+
+		assertThat(filter.getLocation()).isNull();
+		assertThat(filter.getJobFunction()).isNull();
+		assertThat(filter.getLocationIds()).isEmpty();
+		assertThat(filter.getTags()).isEmpty();
+	}
+
+	@Test
+	void trimsAndLowercasesLocationAndJobFunction() {
+		JobFilter filter = JobFilter.of("  San Francisco ", null, " Sales ", null);
+
+		assertThat(filter.getLocation()).isEqualTo("san francisco");
+		assertThat(filter.getJobFunction()).isEqualTo("sales");
+	}
+
+	@Test
+	void equivalentFiltersProduceEqualKeys() {
+		JobFilter first = JobFilter.of("Remote", List.of(2L, 1L), "Sales", List.of("Java", "React"));
+		JobFilter second = JobFilter.of(" remote ", List.of(1L, 2L, 2L), "SALES", List.of("React", "Java ", "Java"));
+
+		assertThat(first).isEqualTo(second);
+		assertThat(first.hashCode()).isEqualTo(second.hashCode());
+	}
+
+}
@@ -0,0 +1,135 @@
+package com.example.techstars.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.techstars.model.Location;
+import com.example.techstars.repository.LocationRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class LocationServiceTests {
+
+	private final LocationService locationService = new LocationService(null);
+
+	@Test
+	void parsesCityOnly() {
+		Location location = locationService.parse("Berlin");
+
+		assertThat(location.getCity()).isEqualTo("Berlin");
+		assertThat(location.getRegion()).isNull();
+		assertThat(location.getCountry()).isNull();
+		assertThat(location.isRemote()).isFalse();
+	}
+
+	@Test
+	void parsesCityAndUsStateAbbreviationAsRegion() {
+		Location location = locationService.parse("San Francisco, CA");
+
+		assertThat(location.getCity()).isEqualTo("San Francisco");
+		assertThat(location.getRegion()).isEqualTo("CA");
+		assertThat(location.getCountry()).isNull();
+	}
+
+	@Test
+	void parsesCityAndUsStateNameAsRegion() {
+		Location location = locationService.parse("Austin, Texas");
+
+		assertThat(location.getCity()).isEqualTo("Austin");
+		assertThat(location.getRegion()).isEqualTo("Texas");
+		assertThat(location.getCountry()).isNull();
+	}
+
+	@Test
+	void parsesCityAndCountry() {
+		Location location = locationService.parse("London, United Kingdom");
+
+		assertThat(location.getCity()).isEqualTo("London");
+		assertThat(location.getRegion()).isNull();
+		assertThat(location.getCountry()).isEqualTo("United Kingdom");
+	}
+
+	@Test
+	void parsesCityAndNonUsCountryCodeAsCountry() {
+		Location location = locationService.parse("London, UK");
+
+		assertThat(location.getCity()).isEqualTo("London");
+		assertThat(location.getRegion()).isNull();
+		assertThat(location.getCountry()).isEqualTo("UK");
+	}
+
+	@Test
+	void parsesCityRegionAndCountry() {
+		Location location = locationService.parse("New York, NY, USA");
+
+		assertThat(location.getCity()).isEqualTo("New York");
+		assertThat(location.getRegion()).isEqualTo("NY");
+		assertThat(location.getCountry()).isEqualTo("USA");
+		assertThat(location.isRemote()).isFalse();
+	}
+
+	@Test
+	void parsesRemote() {
+		Location location = locationService.parse("Remote");
+
+		assertThat(location.isRemote()).isTrue();
+		assertThat(location.getCity()).isNull();
+		assertThat(location.getRegion()).isNull();
+		assertThat(location.getCountry()).isNull();
+	}
+
+	@Test
+	void parsesRemoteWithCountryQualifier() {
+		Location location = locationService.parse("Remote - US");
+
+		assertThat(location.isRemote()).isTrue();
+		assertThat(location.getCity()).isNull();
+		assertThat(location.getCountry()).isEqualTo("US");
+	}
+
+	@Test
+	void normalizesCaseForLookupKey() {
+		assertThat(locationService.parse("New York, NY").getNormalizedName())
+				.isEqualTo(locationService.parse("new york, ny").getNormalizedName());
+	}
+
+	@Test
+	void collapsesWhitespace() {
+		assertThat(locationService.normalize("  San   Francisco,  CA ")).isEqualTo("San Francisco, CA");
+	}
+
+	@Test
+	void returnsNoLocationForNullInput() {
+		assertThat(locationService.normalize(null)).isEmpty();
+		assertThat(locationService.findOrCreateLocation(null)).isNull();
+	}
+
+	@Test
+	void returnsNoLocationForBlankInput() {
+		assertThat(locationService.normalize("   ")).isEmpty();
+		assertThat(locationService.findOrCreateLocation("   ")).isNull();
+	}
+
+	@Test
+	void reReadsLocationCreatedConcurrentlyByAnotherScrape() {
+		LocationRepository locationRepository = mock(LocationRepository.class);
+		Location existing = Location.builder()
+				.id(42L)
+				.name("San Francisco, CA")
+				.normalizedName("san francisco, ca")
+				.build();
+		when(locationRepository.findByNormalizedName("san francisco, ca"))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(existing));
+		when(locationRepository.save(any(Location.class)))
+				.thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+		Location location = new LocationService(locationRepository).findOrCreateLocation("San Francisco, CA");
+
+		assertThat(location).isSameAs(existing);
+	}
+
+}